@@ -8,7 +8,9 @@ import java.nio.file.*;
 import java.security.CodeSource;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -31,8 +33,14 @@ public class FindBugsRunner {
         Project targetProject = buildTargetProject(args);
         BugReporter bugReporter = createBugReporter(targetProject);
         List<BugInstance> bugs = runFindbugs(targetProject, bugReporter);
-		bugs.sort(Comparator.comparingInt(BugInstance::getBugRank));
-        List<DetectorFinding> findings = convertToFindings(bugs);
+        Map<BugInstance, Integer> ranks = new IdentityHashMap<>();
+        for (BugInstance bug : bugs) {
+            ranks.put(bug, bug.getBugRank());
+        }
+        bugs.sort(Comparator.comparingInt(ranks::get));
+        // Descriptions may be omitted with '--java-options Dfindbugs.desc=false'.
+        boolean includeDescription = Boolean.parseBoolean(System.getProperty("findbugs.desc", "true"));
+        List<DetectorFinding> findings = convertToFindings(bugs, ranks, includeDescription);
         return output.withFindings(findings);
 	}
 
@@ -136,7 +144,7 @@ public class FindBugsRunner {
         throw new FileNotFoundException("Could not determine plugins path.");
     }
 
-    private static List<DetectorFinding> convertToFindings(List<BugInstance> bugs) {
+    private static List<DetectorFinding> convertToFindings(List<BugInstance> bugs, Map<BugInstance, Integer> ranks, boolean includeDescription) {
         MuBenchMethodFormatConverter muBenchConverter = new MuBenchMethodFormatConverter();
         List<DetectorFinding> findings = new ArrayList<>();
         for (BugInstance bug : bugs) {
@@ -150,7 +158,8 @@ public class FindBugsRunner {
             }
             String methodSig = primaryMethod.getMethodSignature();
             String extractedType = muBenchConverter.convert(methodSig);
-            String srcPath = bug.getPrimarySourceLineAnnotation().getSourcePath();
+            SourceLineAnnotation primarySourceLine = bug.getPrimarySourceLineAnnotation();
+            String srcPath = primarySourceLine.getSourcePath();
 
             DetectorFinding finding;
             if(extractedType != null){
@@ -158,10 +167,12 @@ public class FindBugsRunner {
             }else{
                 finding = new DetectorFinding(srcPath, methodSig);
             }
-            finding.put("rank", bug.getBugRank());
-            finding.put("desc", bug.getMessage());
+            finding.put("rank", ranks.get(bug));
+            if (includeDescription) {
+                finding.put("desc", bug.getMessage());
+            }
             finding.put("type", bug.getType());
-            finding.put("startline", bug.getPrimarySourceLineAnnotation().getStartLine());
+            finding.put("startline", primarySourceLine.getStartLine());
 
             findings.add(finding);
         }